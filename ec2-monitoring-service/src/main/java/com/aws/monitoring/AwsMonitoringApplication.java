@@ -2,10 +2,12 @@ package com.aws.monitoring;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AwsMonitoringApplication {
     public static void main(String[] args) {
         SpringApplication.run(AwsMonitoringApplication.class, args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.aws.monitoring.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 200 응답의 직렬화된 본문(과 gzip 변형)을 {@link ResponseBodyCache}에 보관하고,
+ * TTL 동안 같은 경로·쿼리의 요청에는 컨트롤러와 Jackson을 거치지 않고 바이트를 그대로 내려준다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+    int ttlSeconds() default 30;
+}
@@ -0,0 +1,150 @@
+package com.aws.monitoring.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 응답 본문과 미리 압축한 gzip 변형을 내용 버전(ETag)별로 보관한다.
+ * 항목은 TTL로만 만료되며, AWS 쪽 변경을 감지해 무효화하지는 않는다.
+ * ETag(SHA-256)와 gzip은 요청 스레드가 아닌 백그라운드 스레드에서 만들고, 준비되기 전까지는 원본 바이트만 내려준다.
+ * 만료 후 다시 만든 본문이 이전과 같으면 기존 gzip 변형과 ETag를 그대로 재사용한다.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final int maxEntries;
+    private final Executor digestExecutor;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public ResponseBodyCache(MeterRegistry meterRegistry,
+                             @Value("${aws.response-cache.max-entries:256}") int maxEntries) {
+        this(meterRegistry, maxEntries, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "response-cache-digest");
+            thread.setDaemon(true);
+            return thread;
+        }), System::nanoTime);
+    }
+
+    ResponseBodyCache(MeterRegistry meterRegistry, int maxEntries, Executor digestExecutor, LongSupplier nanoTime) {
+        this.maxEntries = maxEntries;
+        this.digestExecutor = digestExecutor;
+        this.nanoTime = nanoTime;
+        hits = Counter.builder("aws.response.cache.requests")
+                .description("Cacheable requests served from or missing the response body cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("aws.response.cache.requests")
+                .description("Cacheable requests served from or missing the response body cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("aws.response.cache.entries", entries, Map::size)
+                .description("Cached response bodies")
+                .register(meterRegistry);
+    }
+
+    public Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpiredAt(nanoTime.getAsLong())) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    public void put(String key, byte[] body, String contentType, int ttlSeconds) {
+        long expiresAtNanos = nanoTime.getAsLong() + ttlSeconds * 1_000_000_000L;
+
+        Entry previous = entries.get(key);
+        if (previous != null && previous.etag() != null && Arrays.equals(previous.body(), body)) {
+            entries.put(key, new Entry(previous.body(), previous.gzip(), previous.etag(), contentType, expiresAtNanos));
+            return;
+        }
+
+        if (previous == null && entries.size() >= maxEntries) {
+            long now = nanoTime.getAsLong();
+            entries.values().removeIf(entry -> entry.isExpiredAt(now));
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        Entry entry = new Entry(body, null, null, contentType, expiresAtNanos);
+        entries.put(key, entry);
+        try {
+            digestExecutor.execute(() -> {
+                Entry digested = new Entry(body, gzip(body), etag(body), contentType, expiresAtNanos);
+                entries.replace(key, entry, digested);
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 원본 바이트만 제공한다
+        }
+    }
+
+    /**
+     * 쿼리 문자열과 관계없이 {@code path}의 모든 항목을 무효화한다.
+     */
+    public void invalidate(String path) {
+        entries.keySet().removeIf(key -> key.equals(path) || key.startsWith(path + "?"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (digestExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * {@code gzip}과 {@code etag}는 백그라운드 압축이 끝나기 전까지 null이다.
+     */
+    public record Entry(byte[] body, byte[] gzip, String etag, String contentType, long expiresAtNanos) {
+
+        boolean isExpiredAt(long nowNanos) {
+            return nowNanos - expiresAtNanos > 0;
+        }
+    }
+}
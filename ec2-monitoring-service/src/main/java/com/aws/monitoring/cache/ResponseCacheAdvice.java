@@ -0,0 +1,87 @@
+package com.aws.monitoring.cache;
+
+import com.aws.monitoring.timing.RequestTiming;
+import com.aws.monitoring.timing.ServerTimingJsonHttpMessageConverter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 캐시 미스인 {@link CachedResponse} 응답을 한 번만 직렬화해 그 바이트를 캐시에 넣고 그대로 응답에 쓴다.
+ * 본문을 직접 쓰고 null을 반환하므로 Jackson 컨버터는 다시 쓰지 않는다.
+ */
+@RestControllerAdvice
+public class ResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseBodyCache cache;
+    private final ObjectMapper objectMapper;
+
+    public ResponseCacheAdvice(ResponseBodyCache cache, ObjectMapper objectMapper) {
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedResponse.class)
+                && MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse().getStatus() != HttpStatus.OK.value()) {
+            return body;
+        }
+        Object key = servletRequest.getServletRequest().getAttribute(ResponseCacheInterceptor.KEY_ATTRIBUTE);
+        if (key == null) {
+            return body;
+        }
+
+        byte[] bytes = RequestTiming.phase("serialize", () -> serialize(body));
+        CachedResponse cachedResponse = returnType.getMethodAnnotation(CachedResponse.class);
+        cache.put((String) key, bytes, selectedContentType.toString(), cachedResponse.ttlSeconds());
+
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(selectedContentType);
+        headers.setContentLength(bytes.length);
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            headers.set(ServerTimingJsonHttpMessageConverter.SERVER_TIMING, timing.toServerTimingHeader());
+        }
+        try {
+            response.getBody().write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("응답 직렬화 실패: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.aws.monitoring.cache;
+
+import com.aws.monitoring.timing.RequestTiming;
+import com.aws.monitoring.timing.ServerTimingJsonHttpMessageConverter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * {@link CachedResponse} 메서드에 대해 캐시된 바이트를 서블릿 응답에 바로 쓴다.
+ * 캐시에 없으면 요청에 캐시 키를 남겨 {@link ResponseCacheAdvice}가 직렬화한 본문을 저장하게 한다.
+ * 벌크헤드보다 먼저 등록되어 캐시 적중 요청은 AWS 벌크헤드 허가를 쓰지 않는다.
+ */
+@Component
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    static final String KEY_ATTRIBUTE = ResponseCacheInterceptor.class.getName() + ".KEY";
+
+    private final ResponseBodyCache cache;
+
+    public ResponseCacheInterceptor(ResponseBodyCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(CachedResponse.class)) {
+            return true;
+        }
+        String key = key(request);
+        ResponseBodyCache.Entry entry = cache.get(key);
+        if (entry == null) {
+            request.setAttribute(KEY_ATTRIBUTE, key);
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            response.setHeader(ServerTimingJsonHttpMessageConverter.SERVER_TIMING, timing.toServerTimingHeader());
+        }
+        // ETag와 gzip은 백그라운드 압축이 끝난 뒤에만 제공한다
+        if (entry.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, entry.etag());
+            if (entry.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return false;
+            }
+        }
+        response.setContentType(entry.contentType());
+        if (entry.gzip() != null && acceptsGzip(Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING)))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(entry.gzip().length);
+            response.getOutputStream().write(entry.gzip());
+        } else {
+            response.setContentLength(entry.body().length);
+            response.getOutputStream().write(entry.body());
+        }
+        return false;
+    }
+
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getServletPath() : request.getServletPath() + "?" + query;
+    }
+
+    /**
+     * Accept-Encoding의 q 값을 반영한다. {@code gzip;q=0}은 명시적 거부이며, gzip이 없으면 {@code *}를 따른다.
+     */
+    static boolean acceptsGzip(Collection<String> acceptEncodingHeaders) {
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String header : acceptEncodingHeaders) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                double quality = quality(parts);
+                if (name.equals("gzip") || name.equals("x-gzip")) {
+                    gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+                } else if (name.equals("*")) {
+                    wildcardQuality = quality;
+                }
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && Character.toLowerCase(parameter.charAt(0)) == 'q' && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
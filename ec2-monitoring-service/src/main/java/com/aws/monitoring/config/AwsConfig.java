@@ -1,21 +1,34 @@
 package com.aws.monitoring.config;
 
+import com.aws.monitoring.resilience.DeadlineInterceptor;
+import com.aws.monitoring.timing.AwsCallTimingInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
 import software.amazon.awssdk.services.rds.RdsClient;
 
+import java.time.Duration;
+
 @Configuration
 public class AwsConfig {
 
+    @Value("${aws.sdk.api-call-timeout-ms:10000}")
+    private long apiCallTimeoutMs;
+
+    @Value("${aws.sdk.api-call-attempt-timeout-ms:5000}")
+    private long apiCallAttemptTimeoutMs;
+
     @Bean
     public Ec2Client ec2Client() {
         return Ec2Client.builder()
                 .region(Region.US_EAST_2)
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .overrideConfiguration(clientOverrideConfiguration())
                 .build();
     }
     
@@ -24,6 +37,7 @@ public class AwsConfig {
         return CloudWatchClient.builder()
                 .region(Region.US_EAST_2)
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .overrideConfiguration(clientOverrideConfiguration())
                 .build();
     }
     
@@ -32,6 +46,17 @@ public class AwsConfig {
         return RdsClient.builder()
                 .region(Region.US_EAST_2)
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .overrideConfiguration(clientOverrideConfiguration())
+                .build();
+    }
+
+    // 기본 타임아웃(요청 마감 시각이 없는 백그라운드 수집 등에 적용), 요청 마감 시각 전파, 호출 계측
+    private ClientOverrideConfiguration clientOverrideConfiguration() {
+        return ClientOverrideConfiguration.builder()
+                .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMs))
+                .apiCallAttemptTimeout(Duration.ofMillis(apiCallAttemptTimeoutMs))
+                .addExecutionInterceptor(new DeadlineInterceptor())
+                .addExecutionInterceptor(new AwsCallTimingInterceptor())
                 .build();
     }
 }
@@ -0,0 +1,35 @@
+package com.aws.monitoring.config;
+
+import com.aws.monitoring.cache.ResponseCacheInterceptor;
+import com.aws.monitoring.resilience.BulkheadInterceptor;
+import com.aws.monitoring.timing.ServerTimingJsonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ResponseCacheInterceptor responseCacheInterceptor;
+
+    @Autowired
+    private BulkheadInterceptor bulkheadInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 캐시 적중 요청은 벌크헤드 허가와 요청 마감 시각을 쓰지 않도록 캐시를 먼저 둔다
+        registry.addInterceptor(responseCacheInterceptor);
+        registry.addInterceptor(bulkheadInterceptor);
+    }
+
+    // Spring Boot 기본 Jackson 컨버터를 대체 (@ConditionalOnMissingBean)
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJsonHttpMessageConverter(objectMapper);
+    }
+}
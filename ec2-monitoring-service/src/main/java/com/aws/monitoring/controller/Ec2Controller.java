@@ -1,5 +1,11 @@
 package com.aws.monitoring.controller;
 
+import com.aws.monitoring.cache.CachedResponse;
+import com.aws.monitoring.resilience.AwsDependency;
+import com.aws.monitoring.resilience.Bulkhead;
+import com.aws.monitoring.resilience.DeadlineExceededException;
+import com.aws.monitoring.service.GroupMetricsService;
+import com.aws.monitoring.timing.RequestTiming;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,9 +16,12 @@ import software.amazon.awssdk.services.cloudwatch.model.*;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -25,23 +34,32 @@ public class Ec2Controller {
     @Autowired
     private CloudWatchClient cloudWatchClient;
 
+    @Autowired
+    private GroupMetricsService groupMetricsService;
+
     @GetMapping("/instances")
+    @CachedResponse(ttlSeconds = 30)
+    @Bulkhead(AwsDependency.EC2)
     public ResponseEntity<List<Map<String, Object>>> listAllInstances() {
         try {
             DescribeInstancesResponse response = ec2Client.describeInstances();
             
-            List<Map<String, Object>> instances = response.reservations().stream()
+            List<Map<String, Object>> instances = RequestTiming.phase("map", () -> response.reservations().stream()
                     .flatMap(reservation -> reservation.instances().stream())
                     .map(this::toInstanceMap)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
 
             return ResponseEntity.ok(instances);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(List.of(Map.of("error", e.getMessage())));
         }
     }
 
     @GetMapping("/instances/running")
+    @CachedResponse(ttlSeconds = 30)
+    @Bulkhead(AwsDependency.EC2)
     public ResponseEntity<List<Map<String, Object>>> listRunningInstances() {
         try {
             DescribeInstancesRequest request = DescribeInstancesRequest.builder()
@@ -53,18 +71,22 @@ public class Ec2Controller {
                     
             DescribeInstancesResponse response = ec2Client.describeInstances(request);
             
-            List<Map<String, Object>> instances = response.reservations().stream()
+            List<Map<String, Object>> instances = RequestTiming.phase("map", () -> response.reservations().stream()
                     .flatMap(reservation -> reservation.instances().stream())
                     .map(this::toInstanceMap)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
 
             return ResponseEntity.ok(instances);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(List.of(Map.of("error", e.getMessage())));
         }
     }
 
     @GetMapping("/instances/{instanceId}/cpu")
+    @CachedResponse(ttlSeconds = 60)
+    @Bulkhead(AwsDependency.CLOUDWATCH)
     public ResponseEntity<Map<String, Object>> getCpuMetrics(
             @PathVariable String instanceId,
             @RequestParam(defaultValue = "300") Integer period,
@@ -94,22 +116,26 @@ public class Ec2Controller {
             result.put("metricName", "CPUUtilization");
             result.put("unit", "Percent");
             result.put("period", period);
-            result.put("dataPoints", response.datapoints().stream()
+            result.put("dataPoints", RequestTiming.phase("map", () -> response.datapoints().stream()
                     .map(dp -> Map.of(
                             "timestamp", dp.timestamp(),
                             "average", dp.average(),
                             "maximum", dp.maximum()
                     ))
                     .sorted((p1, p2) -> ((Instant) p1.get("timestamp")).compareTo((Instant) p2.get("timestamp")))
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList())));
 
             return ResponseEntity.ok(result);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
         }
     }
 
     @GetMapping("/instances/{instanceId}/network")
+    @CachedResponse(ttlSeconds = 60)
+    @Bulkhead(AwsDependency.CLOUDWATCH)
     public ResponseEntity<Map<String, Object>> getNetworkMetrics(
             @PathVariable String instanceId,
             @RequestParam(defaultValue = "300") Integer period,
@@ -147,23 +173,88 @@ public class Ec2Controller {
                             .endTime(endTime)
                             .build());
 
-            result.put("networkIn", networkInResponse.datapoints().stream()
+            result.put("networkIn", RequestTiming.phase("map", () -> networkInResponse.datapoints().stream()
                     .map(dp -> Map.of("timestamp", dp.timestamp(), "average", dp.average(), "sum", dp.sum()))
                     .sorted((p1, p2) -> ((Instant) p1.get("timestamp")).compareTo((Instant) p2.get("timestamp")))
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList())));
 
-            result.put("networkOut", networkOutResponse.datapoints().stream()
+            result.put("networkOut", RequestTiming.phase("map", () -> networkOutResponse.datapoints().stream()
                     .map(dp -> Map.of("timestamp", dp.timestamp(), "average", dp.average(), "sum", dp.sum()))
                     .sorted((p1, p2) -> ((Instant) p1.get("timestamp")).compareTo((Instant) p2.get("timestamp")))
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList())));
 
             return ResponseEntity.ok(result);
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/instances/status")
+    @CachedResponse(ttlSeconds = 15)
+    @Bulkhead(AwsDependency.EC2)
+    public ResponseEntity<Map<String, Object>> getFleetStatus() {
+        try {
+            Map<String, Instance> instancesById = ec2Client.describeInstancesPaginator()
+                    .reservations().stream()
+                    .flatMap(reservation -> reservation.instances().stream())
+                    .collect(Collectors.toMap(Instance::instanceId, Function.identity()));
+
+            // includeAllInstances: 중지된 인스턴스도 포함 (상태 점검 값은 not-applicable)
+            List<InstanceStatus> statuses = ec2Client.describeInstanceStatusPaginator(DescribeInstanceStatusRequest.builder()
+                            .includeAllInstances(true)
+                            .maxResults(1000)
+                            .build())
+                    .instanceStatuses().stream()
+                    .collect(Collectors.toList());
+
+            return ResponseEntity.ok(RequestTiming.phase("map", () -> toFleetStatus(statuses, instancesById)));
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/groups/{tagKey}/{tagValue}/cpu")
+    @CachedResponse(ttlSeconds = 60)
+    @Bulkhead({AwsDependency.EC2, AwsDependency.CLOUDWATCH})
+    public ResponseEntity<Map<String, Object>> getGroupCpuMetrics(
+            @PathVariable String tagKey,
+            @PathVariable String tagValue,
+            @RequestParam(defaultValue = "300") Integer period,
+            @RequestParam(defaultValue = "1") Integer hours) {
+
+        try {
+            return ResponseEntity.ok(groupMetricsService.getCpuMetrics(tagKey, tagValue, period, hours));
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/groups/{tagKey}/{tagValue}/network")
+    @CachedResponse(ttlSeconds = 60)
+    @Bulkhead({AwsDependency.EC2, AwsDependency.CLOUDWATCH})
+    public ResponseEntity<Map<String, Object>> getGroupNetworkMetrics(
+            @PathVariable String tagKey,
+            @PathVariable String tagValue,
+            @RequestParam(defaultValue = "300") Integer period,
+            @RequestParam(defaultValue = "1") Integer hours) {
+
+        try {
+            return ResponseEntity.ok(groupMetricsService.getNetworkMetrics(tagKey, tagValue, period, hours));
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
         }
     }
 
     @GetMapping("/health")
+    @Bulkhead(AwsDependency.EC2)
     public ResponseEntity<Map<String, Object>> healthCheck() {
         try {
             ec2Client.describeInstances(DescribeInstancesRequest.builder().maxResults(5).build());
@@ -172,6 +263,8 @@ public class Ec2Controller {
                     "service", "EC2",
                     "timestamp", Instant.now()
             ));
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(503).body(Map.of(
                     "status", "DOWN",
@@ -183,11 +276,7 @@ public class Ec2Controller {
     }
 
     private Map<String, Object> toInstanceMap(Instance instance) {
-        String name = instance.tags().stream()
-                .filter(tag -> "Name".equals(tag.key()))
-                .map(software.amazon.awssdk.services.ec2.model.Tag::value)
-                .findFirst()
-                .orElse("");
+        String name = tagValue(instance, "Name");
 
         Map<String, Object> map = new HashMap<>();
         map.put("instanceId", instance.instanceId());
@@ -199,4 +288,92 @@ public class Ec2Controller {
         map.put("name", name);
         return map;
     }
+
+    private Map<String, Object> toFleetStatus(List<InstanceStatus> statuses, Map<String, Instance> instancesById) {
+        Map<String, Integer> byState = new TreeMap<>();
+        Map<String, Integer> byAvailabilityZone = new TreeMap<>();
+        Map<String, Integer> byInstanceType = new TreeMap<>();
+        Map<String, Integer> bySystemStatus = new TreeMap<>();
+        Map<String, Integer> byInstanceStatus = new TreeMap<>();
+        int scheduledEventCount = 0;
+        List<Map<String, Object>> instances = new ArrayList<>(statuses.size());
+
+        for (InstanceStatus status : statuses) {
+            Instance instance = instancesById.get(status.instanceId());
+            String state = status.instanceState() != null ? status.instanceState().nameAsString() : "unknown";
+            String instanceType = instance != null ? instance.instanceTypeAsString() : "unknown";
+            String systemStatus = status.systemStatus() != null ? status.systemStatus().statusAsString() : "unknown";
+            String instanceStatus = status.instanceStatus() != null ? status.instanceStatus().statusAsString() : "unknown";
+            List<Map<String, Object>> events = status.events().stream()
+                    .map(this::toEventMap)
+                    .collect(Collectors.toList());
+
+            byState.merge(state, 1, Integer::sum);
+            byAvailabilityZone.merge(status.availabilityZone(), 1, Integer::sum);
+            byInstanceType.merge(instanceType, 1, Integer::sum);
+            bySystemStatus.merge(systemStatus, 1, Integer::sum);
+            byInstanceStatus.merge(instanceStatus, 1, Integer::sum);
+            scheduledEventCount += events.size();
+
+            Map<String, Object> map = new HashMap<>();
+            map.put("instanceId", status.instanceId());
+            map.put("name", instance != null ? tagValue(instance, "Name") : "");
+            map.put("instanceType", instanceType);
+            map.put("availabilityZone", status.availabilityZone());
+            map.put("state", state);
+            map.put("systemStatus", systemStatus);
+            map.put("systemStatusDetails", toStatusDetails(status.systemStatus()));
+            map.put("instanceStatus", instanceStatus);
+            map.put("instanceStatusDetails", toStatusDetails(status.instanceStatus()));
+            map.put("scheduledEvents", events);
+            instances.add(map);
+        }
+
+        Map<String, Object> rollups = new HashMap<>();
+        rollups.put("state", byState);
+        rollups.put("availabilityZone", byAvailabilityZone);
+        rollups.put("instanceType", byInstanceType);
+        rollups.put("systemStatus", bySystemStatus);
+        rollups.put("instanceStatus", byInstanceStatus);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("instanceCount", instances.size());
+        result.put("scheduledEventCount", scheduledEventCount);
+        result.put("rollups", rollups);
+        result.put("instances", instances);
+        return result;
+    }
+
+    // 점검 항목(reachability)별 결과와 장애가 시작된 시각
+    private List<Map<String, Object>> toStatusDetails(InstanceStatusSummary summary) {
+        if (summary == null) {
+            return List.of();
+        }
+        return summary.details().stream()
+                .map(detail -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("name", detail.nameAsString());
+                    map.put("status", detail.statusAsString());
+                    map.put("impairedSince", detail.impairedSince());
+                    return map;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> toEventMap(InstanceStatusEvent event) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("code", event.codeAsString());
+        map.put("description", event.description());
+        map.put("notBefore", event.notBefore());
+        map.put("notAfter", event.notAfter());
+        return map;
+    }
+
+    private String tagValue(Instance instance, String key) {
+        return instance.tags().stream()
+                .filter(tag -> key.equals(tag.key()))
+                .map(software.amazon.awssdk.services.ec2.model.Tag::value)
+                .findFirst()
+                .orElse("");
+    }
 }
@@ -1,5 +1,10 @@
 package com.aws.monitoring.controller;
 
+import com.aws.monitoring.cache.CachedResponse;
+import com.aws.monitoring.resilience.AwsDependency;
+import com.aws.monitoring.resilience.Bulkhead;
+import com.aws.monitoring.resilience.DeadlineExceededException;
+import com.aws.monitoring.timing.RequestTiming;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +34,7 @@ public class RdsController {
     private CloudWatchClient cloudWatchClient;
 
     @GetMapping("/health")
+    @Bulkhead(AwsDependency.RDS)
     public ResponseEntity<Map<String, Object>> healthCheck() {
         Map<String, Object> health = new HashMap<>();
         try {
@@ -37,6 +43,8 @@ public class RdsController {
             health.put("service", "RDS");
             health.put("timestamp", java.time.Instant.now().toString());
             return ResponseEntity.ok(health);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             health.put("status", "DOWN");
             health.put("service", "RDS");
@@ -47,37 +55,47 @@ public class RdsController {
     }
 
     @GetMapping("/instances")
+    @CachedResponse(ttlSeconds = 30)
+    @Bulkhead(AwsDependency.RDS)
     public ResponseEntity<List<Map<String, Object>>> listAllInstances() {
         try {
             DescribeDbInstancesRequest request = DescribeDbInstancesRequest.builder().build();
             DescribeDbInstancesResponse response = rdsClient.describeDBInstances(request);
 
-            List<Map<String, Object>> instances = response.dbInstances().stream()
+            List<Map<String, Object>> instances = RequestTiming.phase("map", () -> response.dbInstances().stream()
                     .map(this::toInstanceMap)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
             return ResponseEntity.ok(instances);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(List.of(Map.of("error", e.getMessage())));
         }
     }
 
     @GetMapping("/instances/available")
+    @CachedResponse(ttlSeconds = 30)
+    @Bulkhead(AwsDependency.RDS)
     public ResponseEntity<List<Map<String, Object>>> listAvailableInstances() {
         try {
             DescribeDbInstancesRequest request = DescribeDbInstancesRequest.builder().build();
             DescribeDbInstancesResponse response = rdsClient.describeDBInstances(request);
 
-            List<Map<String, Object>> instances = response.dbInstances().stream()
+            List<Map<String, Object>> instances = RequestTiming.phase("map", () -> response.dbInstances().stream()
                     .filter(instance -> "available".equals(instance.dbInstanceStatus()))
                     .map(this::toInstanceMap)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
             return ResponseEntity.ok(instances);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(List.of(Map.of("error", e.getMessage())));
         }
     }
 
     @GetMapping("/instances/{instanceId}/cpu")
+    @CachedResponse(ttlSeconds = 60)
+    @Bulkhead(AwsDependency.CLOUDWATCH)
     public ResponseEntity<Map<String, Object>> getCpuMetrics(
             @PathVariable String instanceId,
             @RequestParam(defaultValue = "300") Integer period,
@@ -109,8 +127,8 @@ public class RdsController {
             result.put("period", period);
             result.put("dataPointCount", response.datapoints().size());
 
-            response.datapoints().stream()
-                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp))
+            RequestTiming.phase("map", () -> response.datapoints().stream()
+                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp)))
                     .ifPresent(dp -> {
                         Map<String, Object> latestCpu = new HashMap<>();
                         latestCpu.put("timestamp", dp.timestamp());
@@ -120,6 +138,8 @@ public class RdsController {
                     });
 
             return ResponseEntity.ok(result);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
             error.put("error", "RDS CPU 메트릭 조회 실패: " + e.getMessage());
@@ -129,6 +149,8 @@ public class RdsController {
     }
 
     @GetMapping("/instances/{instanceId}/connections")
+    @CachedResponse(ttlSeconds = 60)
+    @Bulkhead(AwsDependency.CLOUDWATCH)
     public ResponseEntity<Map<String, Object>> getConnectionMetrics(
             @PathVariable String instanceId,
             @RequestParam(defaultValue = "300") Integer period,
@@ -160,8 +182,8 @@ public class RdsController {
             result.put("period", period);
             result.put("dataPointCount", response.datapoints().size());
 
-            response.datapoints().stream()
-                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp))
+            RequestTiming.phase("map", () -> response.datapoints().stream()
+                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp)))
                     .ifPresent(dp -> {
                         Map<String, Object> latestConnections = new HashMap<>();
                         latestConnections.put("timestamp", dp.timestamp());
@@ -171,6 +193,8 @@ public class RdsController {
                     });
 
             return ResponseEntity.ok(result);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
             error.put("error", "RDS 연결 메트릭 조회 실패: " + e.getMessage());
@@ -180,6 +204,8 @@ public class RdsController {
     }
 
     @GetMapping("/instances/{instanceId}/iops")
+    @CachedResponse(ttlSeconds = 60)
+    @Bulkhead(AwsDependency.CLOUDWATCH)
     public ResponseEntity<Map<String, Object>> getIopsMetrics(
             @PathVariable String instanceId,
             @RequestParam(defaultValue = "300") Integer period,
@@ -226,8 +252,8 @@ public class RdsController {
             result.put("readIopsCount", readIopsResponse.datapoints().size());
             result.put("writeIopsCount", writeIopsResponse.datapoints().size());
 
-            readIopsResponse.datapoints().stream()
-                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp))
+            RequestTiming.phase("map", () -> readIopsResponse.datapoints().stream()
+                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp)))
                     .ifPresent(dp -> {
                         Map<String, Object> latestReadIops = new HashMap<>();
                         latestReadIops.put("timestamp", dp.timestamp());
@@ -236,8 +262,8 @@ public class RdsController {
                         result.put("latestReadIops", latestReadIops);
                     });
 
-            writeIopsResponse.datapoints().stream()
-                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp))
+            RequestTiming.phase("map", () -> writeIopsResponse.datapoints().stream()
+                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp)))
                     .ifPresent(dp -> {
                         Map<String, Object> latestWriteIops = new HashMap<>();
                         latestWriteIops.put("timestamp", dp.timestamp());
@@ -247,6 +273,8 @@ public class RdsController {
                     });
 
             return ResponseEntity.ok(result);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
             error.put("error", "RDS IOPS 메트릭 조회 실패: " + e.getMessage());
@@ -0,0 +1,10 @@
+package com.aws.monitoring.resilience;
+
+/**
+ * 벌크헤드로 격리하는 AWS 의존성. 의존성마다 독립된 동시 실행 한도를 가진다.
+ */
+public enum AwsDependency {
+    EC2,
+    RDS,
+    CLOUDWATCH
+}
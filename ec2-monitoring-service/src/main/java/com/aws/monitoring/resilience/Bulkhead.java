@@ -0,0 +1,16 @@
+package com.aws.monitoring.resilience;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드가 호출하는 AWS 의존성을 지정한다. 여러 의존성을 부르는 메서드는 모두 나열하며,
+ * 그중 하나라도 벌크헤드가 가득 차면 {@link BulkheadInterceptor}가 메서드를 실행하지 않고 503과 Retry-After로 즉시 응답한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    AwsDependency[] value();
+}
@@ -0,0 +1,16 @@
+package com.aws.monitoring.resilience;
+
+/**
+ * 요청 마감 시각 안에 AWS 호출을 끝내지 못했을 때 던진다. 컨트롤러는 이 예외를 삼키지 않고 다시 던져
+ * {@link DeadlineExceptionHandler}가 504와 Retry-After로 응답하게 한다.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
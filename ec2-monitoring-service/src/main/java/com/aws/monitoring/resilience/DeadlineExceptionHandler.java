@@ -0,0 +1,27 @@
+package com.aws.monitoring.resilience;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * 마감 시각 초과를 500 대신 벌크헤드 포화와 같은 방식(Retry-After)의 504로 알린다.
+ */
+@RestControllerAdvice
+public class DeadlineExceptionHandler {
+
+    @Value("${aws.bulkhead.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleDeadlineExceeded(DeadlineExceededException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(Map.of("error", e.getMessage()));
+    }
+}
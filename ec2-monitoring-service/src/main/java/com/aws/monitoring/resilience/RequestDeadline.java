@@ -0,0 +1,32 @@
+package com.aws.monitoring.resilience;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 현재 요청 스레드의 종단 간 마감 시각. {@link DeadlineInterceptor}가 SDK 호출(페이지네이터의 각 페이지 포함)마다
+ * 남은 시간을 읽어 API 호출 타임아웃으로 전파한다.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Instant> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(Duration timeout) {
+        DEADLINE.set(Instant.now().plus(timeout));
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    /**
+     * 남은 시간. 이미 지났으면 0 이하이고, 마감 시각이 설정되지 않은 스레드(백그라운드 작업 등)에서는 {@code null}이다.
+     */
+    public static Duration remaining() {
+        Instant deadline = DEADLINE.get();
+        return deadline == null ? null : Duration.between(Instant.now(), deadline);
+    }
+}
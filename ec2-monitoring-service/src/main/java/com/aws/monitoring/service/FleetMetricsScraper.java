@@ -0,0 +1,228 @@
+package com.aws.monitoring.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataRequest;
+import software.amazon.awssdk.services.cloudwatch.model.Metric;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataQuery;
+import software.amazon.awssdk.services.cloudwatch.model.MetricStat;
+import software.amazon.awssdk.services.cloudwatch.model.ScanBy;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * {@link InventoryPoller}가 조회한 인벤토리의 모든 EC2/RDS 인스턴스에 대해 최신 CloudWatch 값을
+ * 주기적으로 GetMetricData로 일괄 조회하여 Micrometer 게이지에 반영한다. Prometheus 스크레이프는 메모리의 게이지만 읽으며 AWS를 호출하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "aws.cloudwatch.scrape", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FleetMetricsScraper {
+
+    private static final Logger log = LoggerFactory.getLogger(FleetMetricsScraper.class);
+
+    // GetMetricData 한 번에 보낼 수 있는 최대 쿼리 수
+    private static final int MAX_QUERIES_PER_REQUEST = 500;
+
+    private static final List<ScrapedMetric> EC2_METRICS = List.of(
+            new ScrapedMetric("AWS/EC2", "CPUUtilization", "InstanceId", "Average",
+                    "aws.ec2.cpu.utilization", "percent"),
+            new ScrapedMetric("AWS/EC2", "NetworkIn", "InstanceId", "Sum",
+                    "aws.ec2.network.in", "bytes"),
+            new ScrapedMetric("AWS/EC2", "NetworkOut", "InstanceId", "Sum",
+                    "aws.ec2.network.out", "bytes"));
+
+    private static final List<ScrapedMetric> RDS_METRICS = List.of(
+            new ScrapedMetric("AWS/RDS", "DatabaseConnections", "DBInstanceIdentifier", "Average",
+                    "aws.rds.database.connections", null),
+            new ScrapedMetric("AWS/RDS", "ReadIOPS", "DBInstanceIdentifier", "Average",
+                    "aws.rds.read.iops", null),
+            new ScrapedMetric("AWS/RDS", "WriteIOPS", "DBInstanceIdentifier", "Average",
+                    "aws.rds.write.iops", null));
+
+    @Autowired
+    private InventoryPoller inventoryPoller;
+
+    @Autowired
+    private CloudWatchClient cloudWatchClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${aws.cloudwatch.scrape.period:300}")
+    private int period;
+
+    @Value("${aws.cloudwatch.scrape.max-instances:500}")
+    private int maxInstances;
+
+    private final Map<ScrapedMetric, MultiGauge> gauges = new LinkedHashMap<>();
+    private final AtomicLong lastSuccessEpochSeconds = new AtomicLong();
+    private Counter scrapeFailures;
+
+    // MultiGauge 행은 값 객체를 약한 참조로 들고 있으므로, 행이 읽는 holder를 여기서 강하게 붙잡아 둔다
+    private final Map<ScrapedMetric, Map<String, LatestValue>> latestValues = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMeters() {
+        for (ScrapedMetric metric : concat(EC2_METRICS, RDS_METRICS)) {
+            gauges.put(metric, MultiGauge.builder(metric.gaugeName())
+                    .description("CloudWatch " + metric.namespace() + " " + metric.metricName() + " " + metric.stat()
+                            + " of the latest complete aws.cloudwatch.scrape.period bucket")
+                    .baseUnit(metric.baseUnit())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("aws.cloudwatch.scrape.last.success", lastSuccessEpochSeconds, AtomicLong::get)
+                .description("Epoch seconds of the last successful CloudWatch scrape")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        scrapeFailures = Counter.builder("aws.cloudwatch.scrape.failures")
+                .description("Number of failed CloudWatch scrape cycles")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${aws.cloudwatch.scrape.initial-delay-ms:0}",
+            fixedDelayString = "${aws.cloudwatch.scrape.interval-ms:60000}")
+    public void scrape() {
+        try {
+            InventoryPoller.Inventory inventory = inventoryPoller.current();
+            List<String> ec2InstanceIds = limit("EC2", inventory.ec2Instances().stream()
+                    .map(Instance::instanceId)
+                    .collect(Collectors.toList()));
+            List<String> rdsInstanceIds = limit("RDS", inventory.rdsInstances().stream()
+                    .map(DBInstance::dbInstanceIdentifier)
+                    .collect(Collectors.toList()));
+
+            Map<ScrapedMetric, Map<String, Double>> values = new HashMap<>();
+            fetchLatest(EC2_METRICS, ec2InstanceIds, values);
+            fetchLatest(RDS_METRICS, rdsInstanceIds, values);
+
+            gauges.forEach((metric, gauge) -> gauge.register(updateRows(metric, values.getOrDefault(metric, Map.of())), true));
+            lastSuccessEpochSeconds.set(Instant.now().getEpochSecond());
+
+            log.debug("CloudWatch 메트릭 수집 완료: EC2 {}개, RDS {}개", ec2InstanceIds.size(), rdsInstanceIds.size());
+        } catch (Exception e) {
+            scrapeFailures.increment();
+            log.warn("CloudWatch 메트릭 수집 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<MultiGauge.Row<?>> updateRows(ScrapedMetric metric, Map<String, Double> values) {
+        Map<String, LatestValue> holders = latestValues.computeIfAbsent(metric, key -> new ConcurrentHashMap<>());
+        holders.keySet().retainAll(values.keySet());
+
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(values.size());
+        values.forEach((instanceId, value) -> {
+            LatestValue holder = holders.computeIfAbsent(instanceId, key -> new LatestValue());
+            holder.set(value);
+            rows.add(MultiGauge.Row.of(Tags.of("instance_id", instanceId), holder, LatestValue::get));
+        });
+        return rows;
+    }
+
+    private void fetchLatest(List<ScrapedMetric> metrics, List<String> instanceIds,
+                             Map<ScrapedMetric, Map<String, Double>> values) {
+        Map<String, Target> targets = new HashMap<>();
+        List<MetricDataQuery> queries = new ArrayList<>();
+        for (ScrapedMetric metric : metrics) {
+            for (String instanceId : instanceIds) {
+                String queryId = "q" + queries.size();
+                targets.put(queryId, new Target(metric, instanceId));
+                queries.add(MetricDataQuery.builder()
+                        .id(queryId)
+                        .metricStat(MetricStat.builder()
+                                .metric(Metric.builder()
+                                        .namespace(metric.namespace())
+                                        .metricName(metric.metricName())
+                                        .dimensions(Dimension.builder()
+                                                .name(metric.dimensionName())
+                                                .value(instanceId)
+                                                .build())
+                                        .build())
+                                .period(period)
+                                .stat(metric.stat())
+                                .build())
+                        .returnData(true)
+                        .build());
+            }
+        }
+
+        // 아직 채워지는 중인 현재 구간을 빼도록 종료 시각을 구간 경계로 내리고, 기본 모니터링(5분) 지연을 감안해
+        // 완료된 구간 3개를 조회한 뒤 가장 최근 값만 사용한다. Sum 통계(NetworkIn/Out)는 구간당 합계다.
+        long now = Instant.now().getEpochSecond();
+        Instant endTime = Instant.ofEpochSecond(now - now % period);
+        Instant startTime = endTime.minusSeconds(3L * period);
+
+        for (int from = 0; from < queries.size(); from += MAX_QUERIES_PER_REQUEST) {
+            GetMetricDataRequest request = GetMetricDataRequest.builder()
+                    .metricDataQueries(queries.subList(from, Math.min(from + MAX_QUERIES_PER_REQUEST, queries.size())))
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .scanBy(ScanBy.TIMESTAMP_DESCENDING)
+                    .build();
+
+            cloudWatchClient.getMetricDataPaginator(request).metricDataResults().forEach(result -> {
+                Target target = targets.get(result.id());
+                if (target != null && !result.values().isEmpty()) {
+                    values.computeIfAbsent(target.metric(), key -> new HashMap<>())
+                            .putIfAbsent(target.instanceId(), result.values().get(0));
+                }
+            });
+        }
+    }
+
+    private List<String> limit(String service, List<String> instanceIds) {
+        if (instanceIds.size() <= maxInstances) {
+            return instanceIds;
+        }
+        log.warn("{} 인스턴스 {}개 중 {}개만 수집합니다 (aws.cloudwatch.scrape.max-instances)",
+                service, instanceIds.size(), maxInstances);
+        return instanceIds.stream().sorted().limit(maxInstances).collect(Collectors.toList());
+    }
+
+    private static List<ScrapedMetric> concat(List<ScrapedMetric> first, List<ScrapedMetric> second) {
+        List<ScrapedMetric> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+
+    private record ScrapedMetric(String namespace, String metricName, String dimensionName, String stat,
+                                 String gaugeName, String baseUnit) {
+    }
+
+    private static final class LatestValue {
+        private volatile double value = Double.NaN;
+
+        double get() {
+            return value;
+        }
+
+        void set(double value) {
+            this.value = value;
+        }
+    }
+
+    private record Target(ScrapedMetric metric, String instanceId) {
+    }
+}
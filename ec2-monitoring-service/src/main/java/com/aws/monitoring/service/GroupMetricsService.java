@@ -0,0 +1,293 @@
+package com.aws.monitoring.service;
+
+import com.aws.monitoring.timing.RequestTiming;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataRequest;
+import software.amazon.awssdk.services.cloudwatch.model.Metric;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataQuery;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataResult;
+import software.amazon.awssdk.services.cloudwatch.model.MetricStat;
+import software.amazon.awssdk.services.cloudwatch.model.ScanBy;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.Instance;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 태그(Auto Scaling 그룹은 {@code aws:autoscaling:groupName} 태그)로 묶인 인스턴스 그룹의 메트릭을 서버에서 집계한다.
+ * 그룹이 GetMetricData 한 번에 들어가면 metric math(AVG/MAX/SUM)로 CloudWatch가 집계한 시계열 하나만 받고,
+ * 그보다 크면 인스턴스별 시계열을 나눠 조회하면서 시각별 누산기에 바로 합친다.
+ * 어느 경우든 응답 크기는 그룹 크기와 무관하게 시각 수에만 비례한다.
+ */
+@Service
+public class GroupMetricsService {
+
+    // GetMetricData 한 번에 보낼 수 있는 최대 쿼리 수 (metric math 식 포함)
+    private static final int MAX_QUERIES_PER_REQUEST = 500;
+
+    private static final List<GroupSeries> CPU_SERIES = List.of(
+            new GroupSeries("average", "CPUUtilization", "Average", Aggregation.AVG),
+            new GroupSeries("maximum", "CPUUtilization", "Maximum", Aggregation.MAX));
+
+    private static final List<GroupSeries> NETWORK_SERIES = List.of(
+            new GroupSeries("networkIn", "NetworkIn", "Sum", Aggregation.SUM),
+            new GroupSeries("networkOut", "NetworkOut", "Sum", Aggregation.SUM));
+
+    @Autowired
+    private Ec2Client ec2Client;
+
+    @Autowired
+    private CloudWatchClient cloudWatchClient;
+
+    public Map<String, Object> getCpuMetrics(String tagKey, String tagValue, int period, int hours) {
+        Map<String, Object> result = aggregate(tagKey, tagValue, period, hours, CPU_SERIES);
+        result.put("metricName", "CPUUtilization");
+        result.put("unit", "Percent");
+        return result;
+    }
+
+    public Map<String, Object> getNetworkMetrics(String tagKey, String tagValue, int period, int hours) {
+        Map<String, Object> result = aggregate(tagKey, tagValue, period, hours, NETWORK_SERIES);
+        result.put("unit", "Bytes");
+        return result;
+    }
+
+    private Map<String, Object> aggregate(String tagKey, String tagValue, int period, int hours,
+                                          List<GroupSeries> series) {
+        List<String> members = findMembers(tagKey, tagValue);
+
+        Instant endTime = Instant.now();
+        Instant startTime = endTime.minus(hours, ChronoUnit.HOURS);
+
+        String aggregation;
+        Map<Instant, Map<String, Object>> points;
+        if (members.isEmpty()) {
+            aggregation = "none";
+            points = new TreeMap<>();
+        } else if (members.size() * series.size() + series.size() <= MAX_QUERIES_PER_REQUEST) {
+            aggregation = "metric-math";
+            points = aggregateWithMetricMath(members, series, period, startTime, endTime);
+        } else {
+            aggregation = "streaming-merge";
+            points = aggregateWithStreamingMerge(members, series, period, startTime, endTime);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("tagKey", tagKey);
+        result.put("tagValue", tagValue);
+        result.put("memberCount", members.size());
+        result.put("period", period);
+        result.put("aggregation", aggregation);
+        result.put("dataPoints", new ArrayList<>(points.values()));
+        return result;
+    }
+
+    private List<String> findMembers(String tagKey, String tagValue) {
+        DescribeInstancesRequest request = DescribeInstancesRequest.builder()
+                .filters(
+                        Filter.builder().name("tag:" + tagKey).values(tagValue).build(),
+                        Filter.builder().name("instance-state-name").values("running").build())
+                .build();
+
+        return ec2Client.describeInstancesPaginator(request).reservations().stream()
+                .flatMap(reservation -> reservation.instances().stream())
+                .map(Instance::instanceId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    // 인스턴스별 쿼리는 returnData=false로 두고 시리즈마다 AVG/MAX/SUM([...]) 식 하나만 돌려받는다
+    private Map<Instant, Map<String, Object>> aggregateWithMetricMath(List<String> members, List<GroupSeries> series,
+                                                                      int period, Instant startTime, Instant endTime) {
+        List<MetricDataQuery> queries = new ArrayList<>();
+        for (int s = 0; s < series.size(); s++) {
+            GroupSeries groupSeries = series.get(s);
+            List<String> ids = new ArrayList<>(members.size());
+            for (int i = 0; i < members.size(); i++) {
+                String id = queryId(s, i);
+                ids.add(id);
+                queries.add(metricQuery(id, groupSeries, members.get(i), period, false));
+            }
+            queries.add(MetricDataQuery.builder()
+                    .id("e" + s)
+                    .label(groupSeries.key())
+                    .expression(groupSeries.aggregation() + "([" + String.join(",", ids) + "])")
+                    .returnData(true)
+                    .build());
+        }
+
+        List<MetricDataResult> results = fetch(queries, startTime, endTime);
+        return RequestTiming.phase("map", () -> {
+            Map<Instant, Map<String, Object>> points = new TreeMap<>();
+            for (MetricDataResult result : results) {
+                GroupSeries groupSeries = series.get(Integer.parseInt(result.id().substring(1)));
+                for (int i = 0; i < result.timestamps().size(); i++) {
+                    point(points, result.timestamps().get(i)).put(groupSeries.key(), result.values().get(i));
+                }
+            }
+            return points;
+        });
+    }
+
+    // 그룹이 한 요청에 들어가지 않으면 인스턴스별 시계열을 나눠 받고, 요청마다 시각별 누산기에 합친 뒤 버린다
+    private Map<Instant, Map<String, Object>> aggregateWithStreamingMerge(List<String> members,
+                                                                          List<GroupSeries> series, int period,
+                                                                          Instant startTime, Instant endTime) {
+        StreamingMerge merge = new StreamingMerge(series);
+        int membersPerRequest = membersPerRequest(series.size());
+
+        for (int from = 0; from < members.size(); from += membersPerRequest) {
+            List<String> chunk = members.subList(from, Math.min(from + membersPerRequest, members.size()));
+            List<MetricDataQuery> queries = new ArrayList<>();
+            for (int s = 0; s < series.size(); s++) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    queries.add(metricQuery(queryId(s, i), series.get(s), chunk.get(i), period, true));
+                }
+            }
+
+            List<MetricDataResult> results = fetch(queries, startTime, endTime);
+            RequestTiming.phase("map", () -> results.forEach(merge::add));
+        }
+
+        return RequestTiming.phase("map", merge::points);
+    }
+
+    private List<MetricDataResult> fetch(List<MetricDataQuery> queries, Instant startTime, Instant endTime) {
+        GetMetricDataRequest request = GetMetricDataRequest.builder()
+                .metricDataQueries(queries)
+                .startTime(startTime)
+                .endTime(endTime)
+                .scanBy(ScanBy.TIMESTAMP_ASCENDING)
+                .build();
+
+        List<MetricDataResult> results = new ArrayList<>();
+        cloudWatchClient.getMetricDataPaginator(request).metricDataResults().forEach(results::add);
+        return results;
+    }
+
+    private MetricDataQuery metricQuery(String id, GroupSeries series, String instanceId, int period,
+                                        boolean returnData) {
+        return MetricDataQuery.builder()
+                .id(id)
+                .metricStat(MetricStat.builder()
+                        .metric(Metric.builder()
+                                .namespace("AWS/EC2")
+                                .metricName(series.metricName())
+                                .dimensions(Dimension.builder()
+                                        .name("InstanceId")
+                                        .value(instanceId)
+                                        .build())
+                                .build())
+                        .period(period)
+                        .stat(series.stat())
+                        .build())
+                .returnData(returnData)
+                .build();
+    }
+
+    // 시리즈마다 다른 소문자로 시작하는 쿼리 ID (a0, a1, ..., b0, b1, ...)
+    static String queryId(int seriesIndex, int memberIndex) {
+        return (char) ('a' + seriesIndex) + String.valueOf(memberIndex);
+    }
+
+    static int seriesIndex(String queryId) {
+        return queryId.charAt(0) - 'a';
+    }
+
+    // 시리즈마다 인스턴스당 쿼리가 하나씩 필요하므로 한 요청에 들어가는 인스턴스 수는 시리즈 수로 나눈 값이다
+    static int membersPerRequest(int seriesCount) {
+        return MAX_QUERIES_PER_REQUEST / seriesCount;
+    }
+
+    private static Map<String, Object> point(Map<Instant, Map<String, Object>> points, Instant timestamp) {
+        return points.computeIfAbsent(timestamp, key -> {
+            Map<String, Object> point = new HashMap<>();
+            point.put("timestamp", key);
+            return point;
+        });
+    }
+
+    enum Aggregation {
+        AVG,
+        MAX,
+        SUM
+    }
+
+    record GroupSeries(String key, String metricName, String stat, Aggregation aggregation) {
+    }
+
+    /**
+     * 인스턴스별 시계열을 시각별 누산기에 합친다. 어떤 인스턴스가 특정 시각의 데이터가 없으면
+     * 그 시각의 AVG는 데이터가 있는 인스턴스 수로만 나눈다.
+     */
+    static final class StreamingMerge {
+        private final List<GroupSeries> series;
+        private final Map<Instant, Accumulator[]> accumulators = new TreeMap<>();
+
+        StreamingMerge(List<GroupSeries> series) {
+            this.series = series;
+        }
+
+        void add(MetricDataResult result) {
+            int s = seriesIndex(result.id());
+            for (int i = 0; i < result.timestamps().size(); i++) {
+                Accumulator[] values = accumulators.computeIfAbsent(
+                        result.timestamps().get(i), timestamp -> newAccumulators(series.size()));
+                values[s].add(result.values().get(i));
+            }
+        }
+
+        Map<Instant, Map<String, Object>> points() {
+            Map<Instant, Map<String, Object>> points = new TreeMap<>();
+            accumulators.forEach((timestamp, values) -> {
+                Map<String, Object> point = point(points, timestamp);
+                for (int s = 0; s < series.size(); s++) {
+                    if (values[s].count > 0) {
+                        point.put(series.get(s).key(), values[s].result(series.get(s).aggregation()));
+                    }
+                }
+            });
+            return points;
+        }
+
+        private static Accumulator[] newAccumulators(int size) {
+            Accumulator[] accumulators = new Accumulator[size];
+            for (int i = 0; i < size; i++) {
+                accumulators[i] = new Accumulator();
+            }
+            return accumulators;
+        }
+    }
+
+    private static final class Accumulator {
+        private double sum;
+        private double max = Double.NEGATIVE_INFINITY;
+        private int count;
+
+        void add(double value) {
+            sum += value;
+            max = Math.max(max, value);
+            count++;
+        }
+
+        double result(Aggregation aggregation) {
+            return switch (aggregation) {
+                case AVG -> sum / count;
+                case MAX -> max;
+                case SUM -> sum;
+            };
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.aws.monitoring.service;
+
+import com.aws.monitoring.cache.ResponseBodyCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeInstanceStatusRequest;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.InstanceStatus;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * EC2/RDS 인벤토리와 EC2 상태 점검 결과를 주기적으로 조회해 이전 스냅샷과 비교하고,
+ * 바뀐 데이터를 그리는 목록 응답을 {@link ResponseBodyCache}에서 TTL 만료 전에 무효화한다.
+ * {@link FleetMetricsScraper}도 여기서 조회한 인벤토리를 쓰므로 수집기를 꺼도 무효화는 계속 동작한다.
+ */
+@Component
+public class InventoryPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryPoller.class);
+
+    private static final List<String> EC2_INSTANCE_PATHS =
+            List.of("/ec2/instances", "/ec2/instances/running", "/ec2/instances/status");
+    private static final List<String> EC2_STATUS_PATHS = List.of("/ec2/instances/status");
+    private static final List<String> RDS_INSTANCE_PATHS = List.of("/rds/instances", "/rds/instances/available");
+
+    @Autowired
+    private Ec2Client ec2Client;
+
+    @Autowired
+    private RdsClient rdsClient;
+
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
+    private volatile Inventory inventory;
+
+    @Scheduled(initialDelayString = "${aws.inventory.poll.initial-delay-ms:0}",
+            fixedDelayString = "${aws.inventory.poll.interval-ms:15000}")
+    public void poll() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("인벤토리 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막으로 조회한 인벤토리. 아직 한 번도 조회하지 않았으면 지금 조회한다.
+     */
+    public Inventory current() {
+        Inventory snapshot = inventory;
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    synchronized Inventory refresh() {
+        List<Instance> ec2Instances = ec2Client.describeInstancesPaginator().reservations().stream()
+                .flatMap(reservation -> reservation.instances().stream())
+                .sorted(Comparator.comparing(Instance::instanceId))
+                .collect(Collectors.toList());
+        List<InstanceStatus> ec2Statuses = ec2Client.describeInstanceStatusPaginator(DescribeInstanceStatusRequest.builder()
+                        .includeAllInstances(true)
+                        .maxResults(1000)
+                        .build())
+                .instanceStatuses().stream()
+                .sorted(Comparator.comparing(InstanceStatus::instanceId))
+                .collect(Collectors.toList());
+        // latestRestorableTime은 백업이 진행되는 동안 계속 바뀌고 목록 응답에도 나오지 않으므로 비교에서 뺀다
+        List<DBInstance> rdsInstances = rdsClient.describeDBInstancesPaginator().dbInstances().stream()
+                .map(instance -> instance.toBuilder().latestRestorableTime(null).build())
+                .sorted(Comparator.comparing(DBInstance::dbInstanceIdentifier))
+                .collect(Collectors.toList());
+
+        Inventory next = new Inventory(ec2Instances, ec2Statuses, rdsInstances);
+        Inventory previous = inventory;
+        if (previous != null) {
+            invalidateIfChanged(previous.ec2Instances(), next.ec2Instances(), EC2_INSTANCE_PATHS);
+            invalidateIfChanged(previous.ec2Statuses(), next.ec2Statuses(), EC2_STATUS_PATHS);
+            invalidateIfChanged(previous.rdsInstances(), next.rdsInstances(), RDS_INSTANCE_PATHS);
+        }
+        inventory = next;
+        return next;
+    }
+
+    private void invalidateIfChanged(List<?> previous, List<?> next, List<String> paths) {
+        if (!previous.equals(next)) {
+            paths.forEach(responseBodyCache::invalidate);
+            log.debug("인벤토리 변경 감지, 캐시 무효화: {}", paths);
+        }
+    }
+
+    public record Inventory(List<Instance> ec2Instances, List<InstanceStatus> ec2Statuses,
+                            List<DBInstance> rdsInstances) {
+    }
+}
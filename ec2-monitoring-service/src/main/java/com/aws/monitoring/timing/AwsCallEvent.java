@@ -0,0 +1,33 @@
+package com.aws.monitoring.timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.aws.monitoring.AwsCall")
+@Label("AWS Call")
+@Category({"AWS Monitoring", "AWS SDK"})
+@Description("Single AWS SDK API call, including retries")
+@StackTrace(false)
+public class AwsCallEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Instance ID")
+    String instanceId;
+
+    @Label("Datapoint Count")
+    int datapointCount;
+
+    @Label("Success")
+    boolean success;
+}
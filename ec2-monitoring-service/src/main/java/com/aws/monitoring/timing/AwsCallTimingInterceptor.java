@@ -0,0 +1,108 @@
+package com.aws.monitoring.timing;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataResponse;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricStatisticsRequest;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricStatisticsResponse;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+
+/**
+ * 모든 AWS SDK 호출을 JFR {@link AwsCallEvent}로 기록하고, 요청 처리 중이면 {@link RequestTiming}에 추가한다.
+ * 동기 클라이언트는 호출 스레드에서 인터셉터를 실행하므로 요청 스레드의 타이밍에 그대로 연결된다.
+ */
+public class AwsCallTimingInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<AwsCallEvent> EVENT = new ExecutionAttribute<>("AwsCallEvent");
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("AwsCallStartNanos");
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        AwsCallEvent event = new AwsCallEvent();
+        event.begin();
+        executionAttributes.putAttribute(EVENT, event);
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        complete(context.request(), context.response(), executionAttributes, true);
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        complete(context.request(), null, executionAttributes, false);
+    }
+
+    private void complete(SdkRequest request, SdkResponse response, ExecutionAttributes executionAttributes,
+                          boolean success) {
+        AwsCallEvent event = executionAttributes.getAttribute(EVENT);
+        Long startNanos = executionAttributes.getAttribute(START_NANOS);
+        if (event == null || startNanos == null) {
+            return;
+        }
+        long duration = System.nanoTime() - startNanos;
+
+        String service = executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME);
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        String instanceId = instanceId(request);
+        int datapointCount = datapointCount(response);
+        RequestTiming timing = RequestTiming.current();
+
+        if (event.shouldCommit()) {
+            event.path = timing != null ? timing.path() : null;
+            event.service = service;
+            event.operation = operation;
+            event.instanceId = instanceId;
+            event.datapointCount = datapointCount;
+            event.success = success;
+            event.commit();
+        }
+
+        if (timing != null) {
+            StringBuilder description = new StringBuilder(operation);
+            if (instanceId != null) {
+                description.append(' ').append(instanceId);
+            }
+            description.append(success ? " (" + datapointCount + ")" : " (failed)");
+            timing.addAwsCall(service, description.toString(), duration);
+        }
+    }
+
+    private String instanceId(SdkRequest request) {
+        if (request instanceof GetMetricStatisticsRequest metricRequest) {
+            return metricRequest.dimensions().stream()
+                    .findFirst()
+                    .map(Dimension::value)
+                    .orElse(null);
+        }
+        return null;
+    }
+
+    private int datapointCount(SdkResponse response) {
+        if (response instanceof GetMetricStatisticsResponse metricResponse) {
+            return metricResponse.datapoints().size();
+        }
+        if (response instanceof GetMetricDataResponse dataResponse) {
+            return dataResponse.metricDataResults().stream()
+                    .mapToInt(result -> result.values().size())
+                    .sum();
+        }
+        if (response instanceof DescribeInstancesResponse instancesResponse) {
+            return instancesResponse.reservations().stream()
+                    .mapToInt(reservation -> reservation.instances().size())
+                    .sum();
+        }
+        if (response instanceof DescribeDbInstancesResponse dbInstancesResponse) {
+            return dbInstancesResponse.dbInstances().size();
+        }
+        return 0;
+    }
+}
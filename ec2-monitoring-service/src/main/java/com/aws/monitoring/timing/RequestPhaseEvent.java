@@ -0,0 +1,21 @@
+package com.aws.monitoring.timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.aws.monitoring.RequestPhase")
+@Label("Request Phase")
+@Category({"AWS Monitoring", "Request"})
+@Description("Non-AWS phase of a controller request, such as datapoint mapping or JSON serialization")
+@StackTrace(false)
+public class RequestPhaseEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Phase")
+    String phase;
+}
@@ -0,0 +1,126 @@
+package com.aws.monitoring.timing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 한 요청의 구간별 소요 시간. {@link ServerTimingFilter}가 요청 스레드에 바인딩하고,
+ * AWS 호출·매핑·직렬화 구간이 여기에 쌓여 {@link ServerTimingJsonHttpMessageConverter}가 Server-Timing 헤더로 내려보낸다.
+ * 각 구간은 같은 내용의 JFR 이벤트로도 기록된다.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final String path;
+    private final long startNanos = System.nanoTime();
+    private final List<Entry> entries = new ArrayList<>();
+
+    private RequestPhaseEvent serializationEvent;
+    private long serializationStartNanos;
+
+    private RequestTiming(String path) {
+        this.path = path;
+    }
+
+    public static RequestTiming start(String path) {
+        RequestTiming timing = new RequestTiming(path);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 응답 매핑처럼 AWS 호출이 아닌 구간을 측정한다.
+     */
+    public static <T> T phase(String name, Supplier<T> work) {
+        RequestTiming timing = CURRENT.get();
+        RequestPhaseEvent event = new RequestPhaseEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long duration = System.nanoTime() - start;
+            if (event.shouldCommit()) {
+                event.path = timing != null ? timing.path : null;
+                event.phase = name;
+                event.commit();
+            }
+            if (timing != null) {
+                timing.entries.add(new Entry(name, null, duration));
+            }
+        }
+    }
+
+    /**
+     * 결과 없이 상태만 바꾸는 구간(예: 누산기에 합치기)을 측정한다.
+     */
+    public static void phase(String name, Runnable work) {
+        phase(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    String path() {
+        return path;
+    }
+
+    void addAwsCall(String service, String description, long durationNanos) {
+        entries.add(new Entry(service.toLowerCase(Locale.ROOT), description, durationNanos));
+    }
+
+    void beginSerialization() {
+        if (serializationEvent == null) {
+            serializationEvent = new RequestPhaseEvent();
+            serializationEvent.begin();
+            serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    void endSerialization() {
+        if (serializationEvent == null) {
+            return;
+        }
+        entries.add(new Entry("serialize", null, System.nanoTime() - serializationStartNanos));
+        if (serializationEvent.shouldCommit()) {
+            serializationEvent.path = path;
+            serializationEvent.phase = "serialize";
+            serializationEvent.commit();
+        }
+        serializationEvent = null;
+    }
+
+    public String toServerTimingHeader() {
+        StringBuilder header = new StringBuilder();
+        for (Entry entry : entries) {
+            append(header, entry.name(), entry.description(), entry.durationNanos());
+        }
+        append(header, "total", null, System.nanoTime() - startNanos);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String name, String description, long durationNanos) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name);
+        if (description != null) {
+            header.append(";desc=\"").append(description.replace("\"", "'")).append('"');
+        }
+        header.append(";dur=").append(String.format(Locale.ROOT, "%.1f", durationNanos / 1_000_000.0));
+    }
+
+    private record Entry(String name, String description, long durationNanos) {
+    }
+}
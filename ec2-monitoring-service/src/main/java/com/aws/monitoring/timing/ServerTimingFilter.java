@@ -0,0 +1,33 @@
+package com.aws.monitoring.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 {@link RequestTiming}을 바인딩한다. 헤더는 {@link ServerTimingJsonHttpMessageConverter}가 직렬화 직후에 붙인다.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming.start(request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTiming.clear();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.aws.monitoring.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyCacheTest {
+
+    private static final String JSON = "application/json";
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final List<Runnable> pendingDigests = new ArrayList<>();
+    private SimpleMeterRegistry registry;
+    private ResponseBodyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new ResponseBodyCache(registry, 2, pendingDigests::add, now::get);
+    }
+
+    @Test
+    void servesPlainBodyUntilDigestIsReady() throws IOException {
+        cache.put("/ec2/instances", bytes("[1,2,3]"), JSON, 30);
+
+        ResponseBodyCache.Entry pending = cache.get("/ec2/instances");
+        assertThat(pending.body()).isEqualTo(bytes("[1,2,3]"));
+        assertThat(pending.etag()).isNull();
+        assertThat(pending.gzip()).isNull();
+
+        runDigests();
+
+        ResponseBodyCache.Entry ready = cache.get("/ec2/instances");
+        assertThat(ready.etag()).startsWith("\"").endsWith("\"");
+        assertThat(gunzip(ready.gzip())).isEqualTo(bytes("[1,2,3]"));
+        assertThat(ready.contentType()).isEqualTo(JSON);
+    }
+
+    @Test
+    void expiresAfterTtl() {
+        cache.put("/ec2/instances", bytes("[]"), JSON, 30);
+
+        now.addAndGet(30_000_000_000L);
+        assertThat(cache.get("/ec2/instances")).isNotNull();
+
+        now.incrementAndGet();
+        assertThat(cache.get("/ec2/instances")).isNull();
+    }
+
+    @Test
+    void reusesGzipAndEtagWhenBodyIsUnchanged() {
+        cache.put("/ec2/instances", bytes("[1]"), JSON, 30);
+        runDigests();
+        ResponseBodyCache.Entry first = cache.get("/ec2/instances");
+
+        now.addAndGet(31_000_000_000L);
+        cache.put("/ec2/instances", bytes("[1]"), JSON, 30);
+
+        assertThat(pendingDigests).isEmpty();
+        ResponseBodyCache.Entry second = cache.get("/ec2/instances");
+        assertThat(second.etag()).isEqualTo(first.etag());
+        assertThat(second.gzip()).isSameAs(first.gzip());
+        assertThat(second.expiresAtNanos()).isGreaterThan(first.expiresAtNanos());
+    }
+
+    @Test
+    void recomputesDigestWhenBodyChanges() {
+        cache.put("/ec2/instances", bytes("[1]"), JSON, 30);
+        runDigests();
+        String firstEtag = cache.get("/ec2/instances").etag();
+
+        cache.put("/ec2/instances", bytes("[2]"), JSON, 30);
+        assertThat(cache.get("/ec2/instances").etag()).isNull();
+
+        runDigests();
+        assertThat(cache.get("/ec2/instances").etag()).isNotEqualTo(firstEtag);
+    }
+
+    @Test
+    void staleDigestDoesNotOverwriteNewerBody() {
+        cache.put("/ec2/instances", bytes("[1]"), JSON, 30);
+        Runnable staleDigest = pendingDigests.remove(0);
+        cache.put("/ec2/instances", bytes("[2]"), JSON, 30);
+
+        staleDigest.run();
+
+        ResponseBodyCache.Entry entry = cache.get("/ec2/instances");
+        assertThat(entry.body()).isEqualTo(bytes("[2]"));
+        assertThat(entry.etag()).isNull();
+    }
+
+    @Test
+    void skipsNewKeysWhenFullOfLiveEntries() {
+        cache.put("/a", bytes("a"), JSON, 30);
+        cache.put("/b", bytes("b"), JSON, 30);
+
+        cache.put("/c", bytes("c"), JSON, 30);
+
+        assertThat(cache.get("/c")).isNull();
+        assertThat(cache.get("/a")).isNotNull();
+        assertThat(registry.get("aws.response.cache.entries").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsExpiredEntriesToMakeRoom() {
+        cache.put("/a", bytes("a"), JSON, 10);
+        cache.put("/b", bytes("b"), JSON, 60);
+        now.addAndGet(11_000_000_000L);
+
+        cache.put("/c", bytes("c"), JSON, 30);
+
+        assertThat(cache.get("/c")).isNotNull();
+        assertThat(cache.get("/b")).isNotNull();
+        assertThat(registry.get("aws.response.cache.entries").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void existingKeyIsUpdatedWhenFull() {
+        cache.put("/a", bytes("a"), JSON, 30);
+        cache.put("/b", bytes("b"), JSON, 30);
+
+        cache.put("/a", bytes("a2"), JSON, 30);
+
+        assertThat(cache.get("/a").body()).isEqualTo(bytes("a2"));
+    }
+
+    @Test
+    void invalidateMatchesPathWithAnyQueryButNotLongerPaths() {
+        cache = new ResponseBodyCache(registry, 10, pendingDigests::add, now::get);
+        cache.put("/ec2/instances", bytes("1"), JSON, 30);
+        cache.put("/ec2/instances?state=running", bytes("2"), JSON, 30);
+        cache.put("/ec2/instances/running", bytes("3"), JSON, 30);
+        cache.put("/ec2/instances-archive", bytes("4"), JSON, 30);
+
+        cache.invalidate("/ec2/instances");
+
+        assertThat(cache.get("/ec2/instances")).isNull();
+        assertThat(cache.get("/ec2/instances?state=running")).isNull();
+        assertThat(cache.get("/ec2/instances/running")).isNotNull();
+        assertThat(cache.get("/ec2/instances-archive")).isNotNull();
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        cache.get("/a");
+        cache.put("/a", bytes("a"), JSON, 30);
+        cache.get("/a");
+        cache.get("/a");
+
+        assertThat(registry.get("aws.response.cache.requests").tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(registry.get("aws.response.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    private void runDigests() {
+        List<Runnable> digests = new ArrayList<>(pendingDigests);
+        pendingDigests.clear();
+        digests.forEach(Runnable::run);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.aws.monitoring.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheInterceptorTest {
+
+    @Test
+    void acceptsGzipListedWithoutQuality() {
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("gzip, deflate, br"))).isTrue();
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("br", "GZIP"))).isTrue();
+    }
+
+    @Test
+    void rejectsGzipWithZeroQuality() {
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("gzip;q=0, br"))).isFalse();
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("gzip; q=0.0"))).isFalse();
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("*;q=1, gzip;q=0"))).isFalse();
+    }
+
+    @Test
+    void acceptsGzipWithPositiveQuality() {
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("br;q=1.0, gzip;q=0.5"))).isTrue();
+    }
+
+    @Test
+    void fallsBackToWildcard() {
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("*"))).isTrue();
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("br, *;q=0"))).isFalse();
+    }
+
+    @Test
+    void identityOnlyWhenHeaderMissing() {
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of())).isFalse();
+        assertThat(ResponseCacheInterceptor.acceptsGzip(List.of("identity"))).isFalse();
+    }
+}
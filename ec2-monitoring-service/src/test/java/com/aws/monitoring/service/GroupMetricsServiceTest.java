@@ -0,0 +1,310 @@
+package com.aws.monitoring.service;
+
+import com.aws.monitoring.service.GroupMetricsService.Aggregation;
+import com.aws.monitoring.service.GroupMetricsService.GroupSeries;
+import com.aws.monitoring.service.GroupMetricsService.StreamingMerge;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataRequest;
+import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataResponse;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataQuery;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDataResult;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.Reservation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupMetricsServiceTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant T1 = Instant.parse("2024-01-01T00:05:00Z");
+
+    private static final List<GroupSeries> CPU = List.of(
+            new GroupSeries("average", "CPUUtilization", "Average", Aggregation.AVG),
+            new GroupSeries("maximum", "CPUUtilization", "Maximum", Aggregation.MAX));
+
+    private static final List<GroupSeries> NETWORK = List.of(
+            new GroupSeries("networkIn", "NetworkIn", "Sum", Aggregation.SUM),
+            new GroupSeries("networkOut", "NetworkOut", "Sum", Aggregation.SUM));
+
+    private final FakeEc2Client ec2Client = new FakeEc2Client();
+    private final FakeCloudWatchClient cloudWatchClient = new FakeCloudWatchClient();
+    private final GroupMetricsService groupMetricsService = new GroupMetricsService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(groupMetricsService, "ec2Client", ec2Client);
+        ReflectionTestUtils.setField(groupMetricsService, "cloudWatchClient", cloudWatchClient);
+    }
+
+    @Test
+    void smallGroupSendsOneMetricMathRequest() {
+        ec2Client.memberCount = 200;
+        // e1이 먼저 와도 결과 ID로 시리즈를 찾아야 한다
+        cloudWatchClient.responder = request -> List.of(
+                result("e1", List.of(T0, T1), List.of(90.0, 70.0)),
+                result("e0", List.of(T0, T1), List.of(12.5, 20.0)));
+
+        Map<String, Object> response = groupMetricsService.getCpuMetrics("aws:autoscaling:groupName", "web-asg", 300, 1);
+
+        assertThat(cloudWatchClient.requests).hasSize(1);
+        List<MetricDataQuery> queries = cloudWatchClient.requests.get(0).metricDataQueries();
+        assertThat(queries).hasSize(402);
+
+        List<MetricDataQuery> instanceQueries = queries.stream()
+                .filter(query -> query.metricStat() != null)
+                .collect(Collectors.toList());
+        assertThat(instanceQueries).hasSize(400).allSatisfy(query -> assertThat(query.returnData()).isFalse());
+        assertThat(instanceQueries.get(0).id()).isEqualTo("a0");
+        assertThat(instanceQueries.get(0).metricStat().stat()).isEqualTo("Average");
+        assertThat(instanceQueries.get(0).metricStat().metric().dimensions().get(0).value()).isEqualTo("i-00000");
+        assertThat(instanceQueries.get(399).id()).isEqualTo("b199");
+        assertThat(instanceQueries.get(399).metricStat().stat()).isEqualTo("Maximum");
+        assertThat(instanceQueries.get(399).metricStat().metric().dimensions().get(0).value()).isEqualTo("i-00199");
+
+        MetricDataQuery average = query(queries, "e0");
+        assertThat(average.expression()).isEqualTo("AVG([" + ids('a', 200) + "])");
+        assertThat(average.returnData()).isTrue();
+        MetricDataQuery maximum = query(queries, "e1");
+        assertThat(maximum.expression()).isEqualTo("MAX([" + ids('b', 200) + "])");
+        assertThat(maximum.returnData()).isTrue();
+
+        assertThat(response)
+                .containsEntry("aggregation", "metric-math")
+                .containsEntry("memberCount", 200)
+                .containsEntry("metricName", "CPUUtilization");
+        assertThat(dataPoints(response)).containsExactly(
+                Map.of("timestamp", T0, "average", 12.5, "maximum", 90.0),
+                Map.of("timestamp", T1, "average", 20.0, "maximum", 70.0));
+    }
+
+    @Test
+    void networkGroupUsesSumExpressions() {
+        ec2Client.memberCount = 3;
+        cloudWatchClient.responder = request -> List.of(
+                result("e0", List.of(T0), List.of(3000.0)),
+                result("e1", List.of(T0), List.of(1500.0)));
+
+        Map<String, Object> response = groupMetricsService.getNetworkMetrics("Team", "payments", 300, 1);
+
+        List<MetricDataQuery> queries = cloudWatchClient.requests.get(0).metricDataQueries();
+        assertThat(query(queries, "e0").expression()).isEqualTo("SUM([a0,a1,a2])");
+        assertThat(query(queries, "e1").expression()).isEqualTo("SUM([b0,b1,b2])");
+        assertThat(dataPoints(response)).containsExactly(
+                Map.of("timestamp", T0, "networkIn", 3000.0, "networkOut", 1500.0));
+    }
+
+    @Test
+    void membersAreLookedUpByTagAmongRunningInstances() {
+        ec2Client.memberCount = 1;
+        cloudWatchClient.responder = request -> List.of();
+
+        groupMetricsService.getCpuMetrics("Team", "payments", 300, 1);
+
+        assertThat(ec2Client.requests).hasSize(1);
+        assertThat(ec2Client.requests.get(0).filters()).containsExactly(
+                Filter.builder().name("tag:Team").values("payments").build(),
+                Filter.builder().name("instance-state-name").values("running").build());
+    }
+
+    @Test
+    void largestMetricMathGroupFillsOneRequest() {
+        ec2Client.memberCount = 249;
+        cloudWatchClient.responder = request -> List.of();
+
+        Map<String, Object> response = groupMetricsService.getCpuMetrics("Team", "payments", 300, 1);
+
+        assertThat(response).containsEntry("aggregation", "metric-math");
+        assertThat(cloudWatchClient.requests).hasSize(1);
+        assertThat(cloudWatchClient.requests.get(0).metricDataQueries()).hasSize(500);
+    }
+
+    @Test
+    void groupBeyondMetricMathLimitSwitchesToStreamingMerge() {
+        ec2Client.memberCount = 250;
+        cloudWatchClient.responder = request -> List.of(
+                result("a0", List.of(T0), List.of(10.0)),
+                result("a249", List.of(T0), List.of(30.0)),
+                result("b0", List.of(T0), List.of(15.0)),
+                result("b249", List.of(T0), List.of(35.0)));
+
+        Map<String, Object> response = groupMetricsService.getCpuMetrics("Team", "payments", 300, 1);
+
+        assertThat(response)
+                .containsEntry("aggregation", "streaming-merge")
+                .containsEntry("memberCount", 250);
+        assertThat(cloudWatchClient.requests).hasSize(1);
+        List<MetricDataQuery> queries = cloudWatchClient.requests.get(0).metricDataQueries();
+        assertThat(queries).hasSize(500)
+                .allSatisfy(query -> assertThat(query.returnData()).isTrue())
+                .noneMatch(query -> query.expression() != null);
+        assertThat(dataPoints(response)).containsExactly(
+                Map.of("timestamp", T0, "average", 20.0, "maximum", 35.0));
+    }
+
+    @Test
+    void streamingMergeSplitsMembersAcrossRequests() {
+        ec2Client.memberCount = 251;
+        // 두 번째 요청에는 251번째 인스턴스 하나만 a0/b0으로 들어간다
+        cloudWatchClient.responder = request -> request.metricDataQueries().size() == 500
+                ? List.of(result("a0", List.of(T0), List.of(10.0)), result("b0", List.of(T0), List.of(10.0)))
+                : List.of(result("a0", List.of(T0, T1), List.of(30.0, 50.0)), result("b0", List.of(T0), List.of(60.0)));
+
+        Map<String, Object> response = groupMetricsService.getCpuMetrics("Team", "payments", 300, 1);
+
+        assertThat(cloudWatchClient.requests).extracting(request -> request.metricDataQueries().size())
+                .containsExactly(500, 2);
+        MetricDataQuery lastMember = cloudWatchClient.requests.get(1).metricDataQueries().get(0);
+        assertThat(lastMember.id()).isEqualTo("a0");
+        assertThat(lastMember.metricStat().metric().dimensions().get(0).value()).isEqualTo("i-00250");
+        assertThat(dataPoints(response)).containsExactly(
+                Map.of("timestamp", T0, "average", 20.0, "maximum", 60.0),
+                Map.of("timestamp", T1, "average", 50.0));
+    }
+
+    @Test
+    void emptyGroupSkipsCloudWatch() {
+        ec2Client.memberCount = 0;
+
+        Map<String, Object> response = groupMetricsService.getCpuMetrics("Team", "nobody", 300, 1);
+
+        assertThat(cloudWatchClient.requests).isEmpty();
+        assertThat(response).containsEntry("aggregation", "none").containsEntry("memberCount", 0);
+        assertThat(dataPoints(response)).isEmpty();
+    }
+
+    @Test
+    void averagesOnlyMembersReportingEachTimestamp() {
+        StreamingMerge merge = new StreamingMerge(CPU);
+        merge.add(result("a0", List.of(T0, T1), List.of(10.0, 30.0)));
+        merge.add(result("a1", List.of(T0), List.of(20.0)));
+        merge.add(result("b0", List.of(T0, T1), List.of(15.0, 40.0)));
+        merge.add(result("b1", List.of(T0), List.of(25.0)));
+
+        Map<Instant, Map<String, Object>> points = merge.points();
+
+        assertThat(points.keySet()).containsExactly(T0, T1);
+        assertThat(points.get(T0)).containsEntry("average", 15.0).containsEntry("maximum", 25.0);
+        assertThat(points.get(T1)).containsEntry("average", 30.0).containsEntry("maximum", 40.0);
+    }
+
+    @Test
+    void sumsAcrossChunks() {
+        StreamingMerge merge = new StreamingMerge(NETWORK);
+        // 같은 쿼리 ID가 다른 요청(청크)에서 다른 인스턴스로 다시 나온다
+        merge.add(result("a0", List.of(T0), List.of(100.0)));
+        merge.add(result("b0", List.of(T0), List.of(1.0)));
+        merge.add(result("a0", List.of(T0, T1), List.of(200.0, 50.0)));
+        merge.add(result("b0", List.of(T0), List.of(2.0)));
+
+        Map<Instant, Map<String, Object>> points = merge.points();
+
+        assertThat(points.get(T0)).containsEntry("networkIn", 300.0).containsEntry("networkOut", 3.0);
+        assertThat(points.get(T1)).containsEntry("networkIn", 50.0).doesNotContainKey("networkOut");
+        assertThat(points.get(T1)).containsEntry("timestamp", T1);
+    }
+
+    @Test
+    void maximumHandlesNegativeAndSingleValues() {
+        StreamingMerge merge = new StreamingMerge(CPU);
+        merge.add(result("b0", List.of(T0), List.of(-5.0)));
+        merge.add(result("b1", List.of(T0), List.of(-2.0)));
+
+        assertThat(merge.points().get(T0)).containsEntry("maximum", -2.0).doesNotContainKey("average");
+    }
+
+    @Test
+    void emptyResultsProduceNoPoints() {
+        StreamingMerge merge = new StreamingMerge(CPU);
+        merge.add(result("a0", List.of(), List.of()));
+
+        assertThat(merge.points()).isEmpty();
+    }
+
+    private static MetricDataResult result(String id, List<Instant> timestamps, List<Double> values) {
+        return MetricDataResult.builder()
+                .id(id)
+                .timestamps(timestamps)
+                .values(values)
+                .build();
+    }
+
+    private static MetricDataQuery query(List<MetricDataQuery> queries, String id) {
+        return queries.stream()
+                .filter(query -> id.equals(query.id()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String ids(char series, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> series + String.valueOf(i))
+                .collect(Collectors.joining(","));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> dataPoints(Map<String, Object> response) {
+        return (List<Map<String, Object>>) response.get("dataPoints");
+    }
+
+    // SDK 클라이언트 인터페이스는 메서드가 수천 개라 Mockito 목 대신 필요한 호출만 구현한다.
+    // 페이지네이터는 인터페이스의 default 메서드이므로 아래 구현을 그대로 탄다.
+    private static final class FakeEc2Client implements Ec2Client {
+        private final List<DescribeInstancesRequest> requests = new ArrayList<>();
+        private int memberCount;
+
+        @Override
+        public DescribeInstancesResponse describeInstances(DescribeInstancesRequest request) {
+            requests.add(request);
+            List<Instance> instances = IntStream.range(0, memberCount)
+                    .mapToObj(i -> Instance.builder().instanceId(String.format("i-%05d", i)).build())
+                    .collect(Collectors.toList());
+            return DescribeInstancesResponse.builder()
+                    .reservations(Reservation.builder().instances(instances).build())
+                    .build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class FakeCloudWatchClient implements CloudWatchClient {
+        private final List<GetMetricDataRequest> requests = new ArrayList<>();
+        private Function<GetMetricDataRequest, List<MetricDataResult>> responder = request -> List.of();
+
+        @Override
+        public GetMetricDataResponse getMetricData(GetMetricDataRequest request) {
+            requests.add(request);
+            return GetMetricDataResponse.builder().metricDataResults(responder.apply(request)).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
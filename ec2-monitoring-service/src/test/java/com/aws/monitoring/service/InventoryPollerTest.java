@@ -0,0 +1,197 @@
+package com.aws.monitoring.service;
+
+import com.aws.monitoring.cache.ResponseBodyCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeInstanceStatusRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstanceStatusResponse;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.InstanceStateName;
+import software.amazon.awssdk.services.ec2.model.InstanceStatus;
+import software.amazon.awssdk.services.ec2.model.Reservation;
+import software.amazon.awssdk.services.ec2.model.SummaryStatus;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class InventoryPollerTest {
+
+    private final FakeEc2Client ec2Client = new FakeEc2Client();
+    private final FakeRdsClient rdsClient = new FakeRdsClient();
+    private final ResponseBodyCache responseBodyCache = mock(ResponseBodyCache.class);
+    private final InventoryPoller inventoryPoller = new InventoryPoller();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(inventoryPoller, "ec2Client", ec2Client);
+        ReflectionTestUtils.setField(inventoryPoller, "rdsClient", rdsClient);
+        ReflectionTestUtils.setField(inventoryPoller, "responseBodyCache", responseBodyCache);
+
+        ec2Client.instance = instance("i-1", InstanceStateName.RUNNING);
+        ec2Client.status = status("i-1", SummaryStatus.OK);
+        rdsClient.instance = dbInstance("db-1", "available", Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void firstPollOnlyRecordsSnapshot() {
+        inventoryPoller.poll();
+
+        verifyNoInteractions(responseBodyCache);
+        assertThat(inventoryPoller.current().ec2Instances()).extracting(Instance::instanceId).containsExactly("i-1");
+    }
+
+    @Test
+    void currentReusesSnapshot() {
+        inventoryPoller.current();
+        inventoryPoller.current();
+
+        assertThat(ec2Client.describeInstancesCalls).hasSize(1);
+    }
+
+    @Test
+    void ec2InstanceChangeInvalidatesEc2Lists() {
+        inventoryPoller.poll();
+        ec2Client.instance = instance("i-1", InstanceStateName.STOPPED);
+
+        inventoryPoller.poll();
+
+        verify(responseBodyCache).invalidate("/ec2/instances");
+        verify(responseBodyCache).invalidate("/ec2/instances/running");
+        verify(responseBodyCache).invalidate("/ec2/instances/status");
+        verify(responseBodyCache, never()).invalidate("/rds/instances");
+    }
+
+    @Test
+    void statusCheckChangeInvalidatesOnlyFleetStatus() {
+        inventoryPoller.poll();
+        ec2Client.status = status("i-1", SummaryStatus.IMPAIRED);
+
+        inventoryPoller.poll();
+
+        verify(responseBodyCache).invalidate("/ec2/instances/status");
+        verify(responseBodyCache, never()).invalidate("/ec2/instances");
+        verify(responseBodyCache, never()).invalidate("/ec2/instances/running");
+    }
+
+    @Test
+    void rdsStatusChangeInvalidatesRdsLists() {
+        inventoryPoller.poll();
+        rdsClient.instance = dbInstance("db-1", "stopped", Instant.parse("2024-01-01T00:00:00Z"));
+
+        inventoryPoller.poll();
+
+        verify(responseBodyCache).invalidate("/rds/instances");
+        verify(responseBodyCache).invalidate("/rds/instances/available");
+        verify(responseBodyCache, never()).invalidate("/ec2/instances");
+    }
+
+    @Test
+    void latestRestorableTimeAloneDoesNotInvalidate() {
+        inventoryPoller.poll();
+        rdsClient.instance = dbInstance("db-1", "available", Instant.parse("2024-01-01T00:05:00Z"));
+
+        inventoryPoller.poll();
+
+        verifyNoInteractions(responseBodyCache);
+    }
+
+    @Test
+    void failedPollKeepsPreviousSnapshot() {
+        inventoryPoller.poll();
+        ec2Client.failure = new IllegalStateException("throttled");
+
+        inventoryPoller.poll();
+
+        assertThat(inventoryPoller.current().ec2Instances()).hasSize(1);
+        verifyNoInteractions(responseBodyCache);
+    }
+
+    private static Instance instance(String id, InstanceStateName state) {
+        return Instance.builder()
+                .instanceId(id)
+                .state(s -> s.name(state))
+                .build();
+    }
+
+    private static InstanceStatus status(String id, SummaryStatus systemStatus) {
+        return InstanceStatus.builder()
+                .instanceId(id)
+                .systemStatus(s -> s.status(systemStatus))
+                .build();
+    }
+
+    private static DBInstance dbInstance(String id, String status, Instant latestRestorableTime) {
+        return DBInstance.builder()
+                .dbInstanceIdentifier(id)
+                .dbInstanceStatus(status)
+                .latestRestorableTime(latestRestorableTime)
+                .build();
+    }
+
+    // SDK 클라이언트 인터페이스는 메서드가 수천 개라 Mockito 목 대신 필요한 호출만 구현한다.
+    // 페이지네이터는 인터페이스의 default 메서드이므로 아래 describe* 구현을 그대로 탄다.
+    private static final class FakeEc2Client implements Ec2Client {
+        private final List<DescribeInstancesRequest> describeInstancesCalls = new ArrayList<>();
+        private Instance instance;
+        private InstanceStatus status;
+        private RuntimeException failure;
+
+        @Override
+        public DescribeInstancesResponse describeInstances(DescribeInstancesRequest request) {
+            if (failure != null) {
+                throw failure;
+            }
+            describeInstancesCalls.add(request);
+            return DescribeInstancesResponse.builder()
+                    .reservations(Reservation.builder().instances(instance).build())
+                    .build();
+        }
+
+        @Override
+        public DescribeInstanceStatusResponse describeInstanceStatus(DescribeInstanceStatusRequest request) {
+            return DescribeInstanceStatusResponse.builder().instanceStatuses(status).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class FakeRdsClient implements RdsClient {
+        private DBInstance instance;
+
+        @Override
+        public DescribeDbInstancesResponse describeDBInstances(DescribeDbInstancesRequest request) {
+            return DescribeDbInstancesResponse.builder().dbInstances(instance).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
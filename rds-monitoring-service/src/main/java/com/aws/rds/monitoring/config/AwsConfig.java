@@ -1,20 +1,33 @@
 package com.aws.rds.monitoring.config;
 
+import com.aws.rds.monitoring.resilience.DeadlineInterceptor;
+import com.aws.rds.monitoring.timing.AwsCallTimingInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
 
+import java.time.Duration;
+
 @Configuration
 public class AwsConfig {
 
+    @Value("${aws.sdk.api-call-timeout-ms:10000}")
+    private long apiCallTimeoutMs;
+
+    @Value("${aws.sdk.api-call-attempt-timeout-ms:5000}")
+    private long apiCallAttemptTimeoutMs;
+
     @Bean
     public RdsClient rdsClient() {
         return RdsClient.builder()
                 .region(Region.US_EAST_2)
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .overrideConfiguration(clientOverrideConfiguration())
                 .build();
     }
     
@@ -23,6 +36,17 @@ public class AwsConfig {
         return CloudWatchClient.builder()
                 .region(Region.US_EAST_2)
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .overrideConfiguration(clientOverrideConfiguration())
+                .build();
+    }
+
+    // 기본 타임아웃(요청 마감 시각이 없는 호출에 적용), 요청 마감 시각 전파, 호출 계측
+    private ClientOverrideConfiguration clientOverrideConfiguration() {
+        return ClientOverrideConfiguration.builder()
+                .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMs))
+                .apiCallAttemptTimeout(Duration.ofMillis(apiCallAttemptTimeoutMs))
+                .addExecutionInterceptor(new DeadlineInterceptor())
+                .addExecutionInterceptor(new AwsCallTimingInterceptor())
                 .build();
     }
 }
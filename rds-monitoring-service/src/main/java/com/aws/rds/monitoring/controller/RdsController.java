@@ -1,5 +1,9 @@
 package com.aws.rds.monitoring.controller;
 
+import com.aws.rds.monitoring.resilience.AwsDependency;
+import com.aws.rds.monitoring.resilience.Bulkhead;
+import com.aws.rds.monitoring.resilience.DeadlineExceededException;
+import com.aws.rds.monitoring.timing.RequestTiming;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +33,7 @@ public class RdsController {
     private CloudWatchClient cloudWatchClient;
 
     @GetMapping("/health")
+    @Bulkhead(AwsDependency.RDS)
     public ResponseEntity<Map<String, Object>> healthCheck() {
         Map<String, Object> health = new HashMap<>();
         try {
@@ -37,6 +42,8 @@ public class RdsController {
             health.put("service", "RDS");
             health.put("timestamp", java.time.Instant.now().toString());
             return ResponseEntity.ok(health);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             health.put("status", "DOWN");
             health.put("service", "RDS");
@@ -47,37 +54,44 @@ public class RdsController {
     }
 
     @GetMapping("/instances")
+    @Bulkhead(AwsDependency.RDS)
     public ResponseEntity<List<Map<String, Object>>> listAllInstances() {
         try {
             DescribeDbInstancesRequest request = DescribeDbInstancesRequest.builder().build();
             DescribeDbInstancesResponse response = rdsClient.describeDBInstances(request);
 
-            List<Map<String, Object>> instances = response.dbInstances().stream()
+            List<Map<String, Object>> instances = RequestTiming.phase("map", () -> response.dbInstances().stream()
                     .map(this::toInstanceMap)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
             return ResponseEntity.ok(instances);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(List.of(Map.of("error", e.getMessage())));
         }
     }
 
     @GetMapping("/instances/available")
+    @Bulkhead(AwsDependency.RDS)
     public ResponseEntity<List<Map<String, Object>>> listAvailableInstances() {
         try {
             DescribeDbInstancesRequest request = DescribeDbInstancesRequest.builder().build();
             DescribeDbInstancesResponse response = rdsClient.describeDBInstances(request);
 
-            List<Map<String, Object>> instances = response.dbInstances().stream()
+            List<Map<String, Object>> instances = RequestTiming.phase("map", () -> response.dbInstances().stream()
                     .filter(instance -> "available".equals(instance.dbInstanceStatus()))
                     .map(this::toInstanceMap)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
             return ResponseEntity.ok(instances);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(List.of(Map.of("error", e.getMessage())));
         }
     }
 
     @GetMapping("/instances/{instanceId}/cpu")
+    @Bulkhead(AwsDependency.CLOUDWATCH)
     public ResponseEntity<Map<String, Object>> getCpuMetrics(
             @PathVariable String instanceId,
             @RequestParam(defaultValue = "300") Integer period,
@@ -109,8 +123,8 @@ public class RdsController {
             result.put("period", period);
             result.put("dataPointCount", response.datapoints().size());
 
-            response.datapoints().stream()
-                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp))
+            RequestTiming.phase("map", () -> response.datapoints().stream()
+                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp)))
                     .ifPresent(dp -> {
                         Map<String, Object> latestCpu = new HashMap<>();
                         latestCpu.put("timestamp", dp.timestamp());
@@ -120,6 +134,8 @@ public class RdsController {
                     });
 
             return ResponseEntity.ok(result);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
             error.put("error", "RDS CPU 메트릭 조회 실패: " + e.getMessage());
@@ -129,6 +145,7 @@ public class RdsController {
     }
 
     @GetMapping("/instances/{instanceId}/connections")
+    @Bulkhead(AwsDependency.CLOUDWATCH)
     public ResponseEntity<Map<String, Object>> getConnectionMetrics(
             @PathVariable String instanceId,
             @RequestParam(defaultValue = "300") Integer period,
@@ -160,8 +177,8 @@ public class RdsController {
             result.put("period", period);
             result.put("dataPointCount", response.datapoints().size());
 
-            response.datapoints().stream()
-                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp))
+            RequestTiming.phase("map", () -> response.datapoints().stream()
+                    .max(java.util.Comparator.comparing(software.amazon.awssdk.services.cloudwatch.model.Datapoint::timestamp)))
                     .ifPresent(dp -> {
                         Map<String, Object> latestConnections = new HashMap<>();
                         latestConnections.put("timestamp", dp.timestamp());
@@ -171,6 +188,8 @@ public class RdsController {
                     });
 
             return ResponseEntity.ok(result);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
             error.put("error", "RDS 연결 메트릭 조회 실패: " + e.getMessage());
@@ -0,0 +1,133 @@
+package com.aws.rds.monitoring.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AWS 의존성별 세마포어 벌크헤드와 요청 마감 시각을 적용한다.
+ * 한 의존성(예: CloudWatch)이 느려져도 다른 의존성을 쓰는 엔드포인트가 Tomcat 스레드를 잃지 않도록
+ * 의존성마다 동시 실행 수를 제한하고, 한도를 넘는 요청은 대기열에 쌓지 않고 바로 거절한다.
+ */
+@Component
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMITS_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".PERMITS";
+
+    private final Map<AwsDependency, Semaphore> permits = new EnumMap<>(AwsDependency.class);
+    private final Map<AwsDependency, Counter> rejections = new EnumMap<>(AwsDependency.class);
+    private final ObjectMapper objectMapper;
+
+    @Value("${aws.bulkhead.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    @Value("${aws.bulkhead.max-wait-ms:50}")
+    private long maxWaitMs;
+
+    @Value("${aws.bulkhead.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    public BulkheadInterceptor(Environment environment, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (AwsDependency dependency : AwsDependency.values()) {
+            String tag = dependency.name().toLowerCase();
+            // 기본값은 application.yml 한 곳에서만 관리한다
+            int maxConcurrent = environment.getRequiredProperty(
+                    "aws.bulkhead." + tag + ".max-concurrent", Integer.class);
+            Semaphore semaphore = new Semaphore(maxConcurrent);
+            permits.put(dependency, semaphore);
+
+            Gauge.builder("aws.bulkhead.active", semaphore, s -> maxConcurrent - s.availablePermits())
+                    .description("In-flight requests holding a bulkhead permit")
+                    .tag("dependency", tag)
+                    .register(meterRegistry);
+            Gauge.builder("aws.bulkhead.max", semaphore, s -> maxConcurrent)
+                    .description("Configured bulkhead size")
+                    .tag("dependency", tag)
+                    .register(meterRegistry);
+            rejections.put(dependency, Counter.builder("aws.bulkhead.rejected")
+                    .description("Requests rejected because the bulkhead was saturated")
+                    .tag("dependency", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RequestDeadline.start(Duration.ofMillis(requestTimeoutMs));
+
+        Bulkhead bulkhead = handlerMethod.getMethodAnnotation(Bulkhead.class);
+        if (bulkhead == null) {
+            return true;
+        }
+        // 여러 의존성은 항상 enum 순서로 획득하고, 하나라도 실패하면 이미 얻은 허가를 돌려준다
+        EnumSet<AwsDependency> dependencies = EnumSet.noneOf(AwsDependency.class);
+        dependencies.addAll(Arrays.asList(bulkhead.value()));
+        List<AwsDependency> acquired = new ArrayList<>();
+        for (AwsDependency dependency : dependencies) {
+            if (!permits.get(dependency).tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                release(acquired);
+                rejections.get(dependency).increment();
+                RequestDeadline.clear();
+                reject(response, dependency);
+                return false;
+            }
+            acquired.add(dependency);
+        }
+        request.setAttribute(PERMITS_ATTRIBUTE, acquired);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        @SuppressWarnings("unchecked")
+        List<AwsDependency> acquired = (List<AwsDependency>) request.getAttribute(PERMITS_ATTRIBUTE);
+        if (acquired != null) {
+            request.removeAttribute(PERMITS_ATTRIBUTE);
+            release(acquired);
+        }
+        RequestDeadline.clear();
+    }
+
+    private void release(List<AwsDependency> acquired) {
+        for (AwsDependency dependency : acquired) {
+            permits.get(dependency).release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, AwsDependency dependency) throws Exception {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "error", dependency + " 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.",
+                "dependency", dependency.name()
+        ));
+    }
+}
@@ -0,0 +1,55 @@
+package com.aws.rds.monitoring.resilience;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.time.Duration;
+
+/**
+ * 모든 SDK 호출에 요청의 남은 시간을 apiCallTimeout으로 설정한다. 동기 클라이언트는 요청 스레드에서
+ * 페이지마다 이 훅을 실행하므로 페이지네이터도 전체 마감 시각을 넘지 않는다.
+ * 마감 시각이 이미 지났으면 호출을 보내지 않고, 그 타임아웃으로 끝난 호출은 {@link DeadlineExceededException}으로 바꾼다.
+ */
+public class DeadlineInterceptor implements ExecutionInterceptor {
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining == null || !(context.request() instanceof AwsRequest request)) {
+            return context.request();
+        }
+        if (remaining.isNegative() || remaining.isZero()) {
+            throw new DeadlineExceededException(
+                    "요청 마감 시각 초과로 " + operation(executionAttributes) + " 호출을 보내지 않았습니다.");
+        }
+        AwsRequestOverrideConfiguration overrideConfiguration = request.overrideConfiguration()
+                .map(AwsRequestOverrideConfiguration::toBuilder)
+                .orElseGet(AwsRequestOverrideConfiguration::builder)
+                .apiCallTimeout(remaining)
+                .build();
+        return request.toBuilder()
+                .overrideConfiguration(overrideConfiguration)
+                .build();
+    }
+
+    @Override
+    public Throwable modifyException(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        Throwable exception = context.exception();
+        if (exception instanceof ApiCallTimeoutException && RequestDeadline.remaining() != null) {
+            return new DeadlineExceededException(
+                    "요청 마감 시각 안에 " + operation(executionAttributes) + " 호출이 끝나지 않았습니다.", exception);
+        }
+        return exception;
+    }
+
+    private static String operation(ExecutionAttributes executionAttributes) {
+        return executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME) + "."
+                + executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+    }
+}
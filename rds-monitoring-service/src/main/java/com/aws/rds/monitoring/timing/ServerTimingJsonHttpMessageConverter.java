@@ -0,0 +1,54 @@
+package com.aws.rds.monitoring.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson 직렬화 구간을 측정하고 Server-Timing 헤더를 붙이는 JSON 컨버터.
+ * 헤더가 본문보다 먼저 나가야 하므로 요청 타이밍이 바인딩된 경우에만 JSON 본문을 직렬화하는 동안 버퍼링하고,
+ * 직렬화가 끝난 즉시 구간을 닫은 뒤 헤더와 본문을 쓴다. 컨트롤러가 반환한 JSON 외의 응답은 버퍼링하지 않는다.
+ */
+public class ServerTimingJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    public ServerTimingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        timing.beginSerialization();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        timing.endSerialization();
+
+        outputMessage.getHeaders().set(SERVER_TIMING, timing.toServerTimingHeader());
+        buffer.writeTo(outputMessage.getBody());
+    }
+}